@@ -23,9 +23,18 @@ class LibraryManager {
     private List<Book> books;
     private Scanner scanner;
 
+    // Aggregate statistics, kept up to date on every add and loan change (no full scans needed)
+    private int borrowedCount;
+    private Map<String, Integer> availableByGenre;          //genre -> number of available books
+    private Map<Integer, Integer> availableByAgeRating;     //age rating -> number of available books
+    private Map<String, Integer> activeLoansByMember;       //member ID -> number of books currently borrowed
+
     private LibraryManager() {                          //Private designer - prevents objects from being created from outside
         members = new ArrayList<>();
         books = new ArrayList<>();
+        availableByGenre = new HashMap<>();
+        availableByAgeRating = new HashMap<>();
+        activeLoansByMember = new HashMap<>();
         scanner = new Scanner(System.in);
         loadData();
     }
@@ -68,7 +77,7 @@ class LibraryManager {
             while ((line = reader.readLine()) != null) {
                 String[] parts = line.split(",");
                 if (parts.length == 7) {
-                    books.add(new Book(parts[0].trim(), parts[1].trim(), parts[2].trim(),
+                    addBook(new Book(parts[0].trim(), parts[1].trim(), parts[2].trim(),
                             parts[3].trim(), parts[4].trim(), parts[5].trim(),
                             Integer.parseInt(parts[6].trim())));
                 }
@@ -111,7 +120,8 @@ class LibraryManager {
             System.out.println("b. Display borrowed books");
             System.out.println("c. Display unborrowed books");
             System.out.println("d. Add a new book");
-            System.out.println("e. Return");
+            System.out.println("e. Display statistics");
+            System.out.println("f. Return");
             System.out.print("Select an option: ");
             String choice = scanner.nextLine().toLowerCase();
 
@@ -120,7 +130,8 @@ class LibraryManager {
                 case "b": displayBorrowedBooks(); break;
                 case "c": displayUnborrowedBooks(); break;
                 case "d": addNewBook(); break;
-                case "e": return;
+                case "e": displayStatistics(); break;
+                case "f": return;
                 default: System.out.println("Invalid option. Please try again.");
             }
         }
@@ -189,7 +200,7 @@ class LibraryManager {
     }
 
     private void displayBorrowedBooks() {
-        List<Book> borrowedBooks = new ArrayList<>();
+        List<Book> borrowedBooks = new ArrayList<>(borrowedCount);
         for (Book book : books) {                          // Review all books in the library
             if (book.isBorrowed()) {
                 borrowedBooks.add(book);                   //If the book is in a "taken" state, add it to the list
@@ -199,7 +210,7 @@ class LibraryManager {
     }
 
     private void displayUnborrowedBooks() {
-        List<Book> unborrowedBooks = new ArrayList<>(); //Create a new list to store only free books
+        List<Book> unborrowedBooks = new ArrayList<>(getAvailableCount()); //Create a new list to store only free books
         for (Book book : books) {
             if (!book.isBorrowed()) {
                 unborrowedBooks.add(book);
@@ -208,6 +219,23 @@ class LibraryManager {
         displayBookTable(unborrowedBooks, "Unborrowed Books");
     }
 
+    private void displayStatistics() {      //Show the precomputed counters - no need to go through all books
+        System.out.println("\n=== Library Statistics ===");
+        System.out.println("Total books: " + books.size());
+        System.out.println("Borrowed: " + getBorrowedCount());
+        System.out.println("Available: " + getAvailableCount());
+        System.out.println("Members with active loans: " + getMembersWithActiveLoans());
+
+        System.out.println("\nAvailable by genre:");
+        for (Map.Entry<String, Integer> entry : new TreeMap<>(availableByGenre).entrySet()) {
+            System.out.printf("  %-20s %d%n", entry.getKey(), entry.getValue());
+        }
+        System.out.println("\nAvailable by age rating:");
+        for (Map.Entry<Integer, Integer> entry : new TreeMap<>(availableByAgeRating).entrySet()) {
+            System.out.printf("  %-20d %d%n", entry.getKey(), entry.getValue());
+        }
+    }
+
     private void displayBookTable(List<Book> bookList, String header) {     //Show table header with column alignment
         System.out.println("\n=== " + header + " ===");
         System.out.printf("%-5s %-15s %-30s %-20s %-15s %-15s %-10s%n",
@@ -316,7 +344,7 @@ class LibraryManager {
             }
         } while (true);
 
-        books.add(new Book(id, isbn, title, author, publishDate, genre, ageRating)); //Add and save book in a list
+        addBook(new Book(id, isbn, title, author, publishDate, genre, ageRating)); //Add and save book in a list
         saveBooksToFile();
         System.out.println("Book added successfully!"); //Confermation
     }
@@ -437,7 +465,7 @@ class LibraryManager {
         System.out.println("Book: " + book.getTitle());  //Checkout and confermation
         System.out.print("Confirm checkout (y/n)? ");
         if (scanner.nextLine().trim().toLowerCase().startsWith("y")) {
-            book.setBorrowedBy(member.getId());
+            setBorrowedBy(book, member.getId());
             saveBooksToFile();
             System.out.println("Book checked out successfully!");
         }
@@ -462,11 +490,62 @@ class LibraryManager {
             return;
         }
 
-        book.setBorrowedBy(null);                   //Drop status "taken
+        setBorrowedBy(book, null);                  //Drop status "taken
         saveBooksToFile();
         System.out.println("Book checked in successfully!");
     }
 
+    // Adds a book to the list and counts it in the statistics
+    private void addBook(Book book) {
+        books.add(book);
+        if (book.isBorrowed()) {
+            borrowedCount++;
+            activeLoansByMember.merge(book.getBorrowedBy(), 1, Integer::sum);
+        } else {
+            availableByGenre.merge(book.getGenre(), 1, Integer::sum);
+            availableByAgeRating.merge(book.getAgeRating(), 1, Integer::sum);
+        }
+    }
+
+    // Changes who has the book and moves it between the counters in O(1).
+    // All loan changes must go through here, otherwise the statistics get out of date.
+    private void setBorrowedBy(Book book, String memberId) {
+        String previous = book.getBorrowedBy();
+        if (Objects.equals(previous, memberId)) {
+            return;                                 //Nothing changes
+        }
+        if (previous == null) {                     //Available -> borrowed
+            borrowedCount++;
+            decrement(availableByGenre, book.getGenre());
+            decrement(availableByAgeRating, book.getAgeRating());
+        } else {
+            decrement(activeLoansByMember, previous);
+        }
+        if (memberId == null) {                     //Borrowed -> available
+            borrowedCount--;
+            availableByGenre.merge(book.getGenre(), 1, Integer::sum);
+            availableByAgeRating.merge(book.getAgeRating(), 1, Integer::sum);
+        } else {
+            activeLoansByMember.merge(memberId, 1, Integer::sum);
+        }
+        book.setBorrowedBy(memberId);
+    }
+
+    private static <K> void decrement(Map<K, Integer> counts, K key) {     //Removes the key when it reaches zero
+        counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    // Statistics - all values are precomputed, so these return instantly
+    public int getBorrowedCount() { return borrowedCount; }
+    public int getAvailableCount() { return books.size() - borrowedCount; }
+    public int getMembersWithActiveLoans() { return activeLoansByMember.size(); }
+    public int getAvailableCountByGenre(String genre) { return availableByGenre.getOrDefault(genre, 0); }
+    public int getAvailableCountByAgeRating(int ageRating) { return availableByAgeRating.getOrDefault(ageRating, 0); }
+    public int getActiveLoanCount(String memberId) { return activeLoansByMember.getOrDefault(memberId, 0); }
+    public Map<String, Integer> getAvailableByGenre() { return Collections.unmodifiableMap(availableByGenre); }
+    public Map<Integer, Integer> getAvailableByAgeRating() { return Collections.unmodifiableMap(availableByAgeRating); }
+    public Map<String, Integer> getActiveLoansByMember() { return Collections.unmodifiableMap(activeLoansByMember); }
+
     // Search Methods                           //Search for participant by surname (partial match
     private void findMember() {
         System.out.println("\n=== Find Member ===");